@@ -10,6 +10,7 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -32,13 +33,17 @@ public class Client {
     }
 
     public List<Models.Build> listBuilds(String projectId, String environmentId, int limit) throws IOException, InterruptedException {
+        return listBuilds(projectId, environmentId, limit, null);
+    }
+
+    public List<Models.Build> listBuilds(String projectId, String environmentId, int limit, Duration timeout) throws IOException, InterruptedException {
         String resolvedProject = Util.requireNonBlank(projectId, "Project ID is required");
         String resolvedEnvironment = Util.requireNonBlank(environmentId, "Environment ID is required");
 
         int effectiveLimit = limit <= 0 ? 50 : limit;
         String path = String.format("subscriptions/%s/builds?environmentCode=%s&limit=%d",
                 encode(resolvedProject), encode(resolvedEnvironment), effectiveLimit);
-        HttpRequest request = requestBuilder(baseUri.resolve(path)).GET().build();
+        HttpRequest request = requestBuilder(baseUri.resolve(path), timeout).GET().build();
         HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
         if (response.statusCode() / 100 != 2) {
             throw new IOException("Failed to fetch builds (status " + response.statusCode() + "): " + response.body());
@@ -54,23 +59,31 @@ public class Client {
     }
 
     public Models.PruneOutcome deleteBuild(String projectId, String environmentId, Models.Build build) throws IOException, InterruptedException {
+        return deleteBuild(projectId, environmentId, build, null);
+    }
+
+    public Models.PruneOutcome deleteBuild(String projectId, String environmentId, Models.Build build, Duration timeout) throws IOException, InterruptedException {
         String resolvedProject = Util.requireNonBlank(projectId, "Project ID is required");
         String resolvedEnvironment = Util.requireNonBlank(environmentId, "Environment ID is required");
         String buildId = Util.requireNonBlank(build.id(), "Build ID is required");
 
         String path = String.format("projects/%s/environments/%s/builds/%s",
                 encode(resolvedProject), encode(resolvedEnvironment), encode(buildId));
-        HttpRequest request = requestBuilder(baseUri.resolve(path)).DELETE().build();
+        HttpRequest request = requestBuilder(baseUri.resolve(path), timeout).DELETE().build();
         HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
         boolean deleted = response.statusCode() / 100 == 2;
         String message = deleted ? "Deleted" : extractErrorMessage(response.body()).orElse("Delete failed");
         return new Models.PruneOutcome(buildId, deleted, response.statusCode(), message);
     }
 
-    private HttpRequest.Builder requestBuilder(URI uri) {
-        return HttpRequest.newBuilder(uri)
+    private HttpRequest.Builder requestBuilder(URI uri, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
                 .header("Authorization", "Bearer " + token)
                 .header("Accept", "application/json");
+        if (timeout != null) {
+            builder.timeout(timeout);
+        }
+        return builder;
     }
 
     private static URI normalizeBaseUri(String baseUrl) {
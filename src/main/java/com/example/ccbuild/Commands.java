@@ -3,6 +3,7 @@ package com.example.ccbuild;
 import picocli.CommandLine;
 
 import java.io.IOException;
+import java.net.http.HttpTimeoutException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -107,16 +108,30 @@ public final class Commands {
         @CommandLine.Option(names = "--dry-run", description = "Only print builds that would be deleted")
         boolean dryRun;
 
+        @CommandLine.Option(names = "--time-budget",
+                description = "Stop deleting once the given wall-clock budget would be exceeded (e.g. 15m, PT1H)")
+        String timeBudget;
+
         @Override
         public Integer call() {
             try {
                 Duration retention = Util.parseDuration(olderThan);
                 Instant cutoff = Instant.now().minus(retention);
+                TimeBudget budget = timeBudget == null ? null : TimeBudget.start(Util.parseDuration(timeBudget));
                 Client client = options.createClient();
-                List<Models.Build> builds = client.listBuilds(
-                        Util.requireNonBlank(options.projectId, "--project-id or CC_PROJECT_ID must be provided"),
-                        Util.requireNonBlank(options.environmentId, "--environment-id or CC_ENVIRONMENT_ID must be provided"),
-                        limit);
+                String projectId = Util.requireNonBlank(options.projectId, "--project-id or CC_PROJECT_ID must be provided");
+                String environmentId = Util.requireNonBlank(options.environmentId, "--environment-id or CC_ENVIRONMENT_ID must be provided");
+                List<Models.Build> builds;
+                try {
+                    builds = client.listBuilds(projectId, environmentId, limit, budget == null ? null : budget.remaining());
+                } catch (HttpTimeoutException ex) {
+                    if (budget == null) {
+                        throw ex;
+                    }
+                    System.out.printf("Deleted 0 builds; time budget of %s reached before candidates were listed.%n",
+                            timeBudget.trim());
+                    return 0;
+                }
 
                 List<Models.Build> candidates = builds.stream()
                         .filter(Models.Build::deletable)
@@ -138,10 +153,24 @@ public final class Commands {
 
                 int limitDeletes = max < 0 ? candidates.size() : Math.min(max, candidates.size());
                 List<Models.PruneOutcome> outcomes = new ArrayList<>();
+                List<String> cancelled = new ArrayList<>();
+                int skipped = 0;
                 for (int i = 0; i < limitDeletes; i++) {
+                    if (budget != null && !budget.canDispatch()) {
+                        skipped = limitDeletes - i;
+                        break;
+                    }
                     Models.Build build = candidates.get(i);
+                    long started = System.nanoTime();
                     try {
-                        outcomes.add(client.deleteBuild(options.projectId, options.environmentId, build));
+                        Models.PruneOutcome outcome = client.deleteBuild(projectId, environmentId, build,
+                                budget == null ? null : budget.remaining());
+                        if (budget != null) {
+                            budget.record(System.nanoTime() - started);
+                        }
+                        outcomes.add(outcome);
+                    } catch (HttpTimeoutException ex) {
+                        cancelled.add(build.id());
                     } catch (InterruptedException ex) {
                         Thread.currentThread().interrupt();
                         outcomes.add(new Models.PruneOutcome(build.id(), false, 0, "Interrupted"));
@@ -157,10 +186,18 @@ public final class Commands {
                 if (failedCount > 0) {
                     System.out.printf(" (%d failure%s)", failedCount, failedCount == 1 ? "" : "s");
                 }
+                if (!cancelled.isEmpty()) {
+                    System.out.printf(" (%d cancelled at deadline, result unknown)", cancelled.size());
+                }
                 System.out.println('.');
+                if (budget != null && (skipped > 0 || !cancelled.isEmpty())) {
+                    System.out.printf("Time budget of %s reached; %d build%s not attempted.%n",
+                            timeBudget.trim(), skipped, skipped == 1 ? "" : "s");
+                }
 
                 outcomes.stream().filter(outcome -> !outcome.deleted()).forEach(outcome ->
                         System.out.printf("- %s: %s (status %d)%n", outcome.buildId(), outcome.message(), outcome.statusCode()));
+                cancelled.forEach(buildId -> System.out.printf("- %s: cancelled at deadline (result unknown)%n", buildId));
 
                 return failedCount == 0 ? 0 : 1;
             } catch (IllegalArgumentException ex) {
@@ -177,6 +214,50 @@ public final class Commands {
         }
     }
 
+    static final class TimeBudget {
+        private final long deadlineNanos;
+        private long completed;
+        private double meanNanos;
+        private double squaredDeviationNanos;
+
+        private TimeBudget(Duration total) {
+            this.deadlineNanos = System.nanoTime() + total.toNanos();
+        }
+
+        static TimeBudget start(Duration total) {
+            if (total.isNegative() || total.isZero()) {
+                throw new IllegalArgumentException("--time-budget must be positive");
+            }
+            return new TimeBudget(total);
+        }
+
+        Duration remaining() {
+            return Duration.ofNanos(Math.max(1, deadlineNanos - System.nanoTime()));
+        }
+
+        boolean canDispatch() {
+            long remaining = deadlineNanos - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            return completed == 0 || remaining >= projectedNanos();
+        }
+
+        // Mean latency plus one standard deviation of headroom, capped at twice the mean so a single
+        // slow outlier cannot idle the tail of the window.
+        private double projectedNanos() {
+            double stddev = completed > 1 ? Math.sqrt(squaredDeviationNanos / (completed - 1)) : 0;
+            return meanNanos + Math.min(stddev, meanNanos);
+        }
+
+        void record(long nanos) {
+            completed++;
+            double delta = nanos - meanNanos;
+            meanNanos += delta / completed;
+            squaredDeviationNanos += delta * (nanos - meanNanos);
+        }
+    }
+
     private static String safeMessage(Exception ex) {
         String message = ex.getMessage();
         return message != null ? message : ex.toString();